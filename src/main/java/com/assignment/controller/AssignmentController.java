@@ -1,5 +1,6 @@
 package com.assignment.controller;
 
+import com.assignment.dto.AssignmentResponse;
 import com.assignment.dto.CreateAssignmentRequest;
 import com.assignment.model.Assignment;
 import com.assignment.security.JwtTokenProvider;
@@ -22,26 +23,32 @@ public class AssignmentController {
     private JwtTokenProvider tokenProvider;
 
     @GetMapping
-    public ResponseEntity<List<Assignment>> getAllAssignments() {
-        return ResponseEntity.ok(assignmentService.getAllAssignments());
+    public ResponseEntity<List<AssignmentResponse>> getAllAssignments() {
+        return listing(assignmentService.getAllAssignments());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Assignment> getAssignmentById(@PathVariable String id) {
-        return ResponseEntity.ok(assignmentService.getAssignmentById(UUID.fromString(id)));
+    public ResponseEntity<AssignmentResponse> getAssignmentById(@PathVariable String id) {
+        return ResponseEntity.ok(AssignmentResponse.from(assignmentService.getAssignmentById(UUID.fromString(id))));
     }
 
     @GetMapping("/instructor")
-    public ResponseEntity<List<Assignment>> getInstructorAssignments(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<AssignmentResponse>> getInstructorAssignments(@RequestHeader("Authorization") String token) {
         UUID userId = tokenProvider.getUserIdFromToken(token.substring(7));
-        return ResponseEntity.ok(assignmentService.getInstructorAssignments(userId));
+        return listing(assignmentService.getInstructorAssignments(userId));
     }
 
     @PostMapping
-    public ResponseEntity<Assignment> createAssignment(
+    public ResponseEntity<AssignmentResponse> createAssignment(
             @RequestBody CreateAssignmentRequest request,
             @RequestHeader("Authorization") String token) {
         UUID userId = tokenProvider.getUserIdFromToken(token.substring(7));
-        return ResponseEntity.ok(assignmentService.createAssignment(request, userId));
+        return ResponseEntity.ok(AssignmentResponse.from(assignmentService.createAssignment(request, userId)));
+    }
+
+    private ResponseEntity<List<AssignmentResponse>> listing(List<Assignment> assignments) {
+        return ResponseEntity.ok()
+                .eTag(ListingETags.of(assignments, Assignment::getId, Assignment::getVersion))
+                .body(assignments.stream().map(AssignmentResponse::from).toList());
     }
 }
\ No newline at end of file
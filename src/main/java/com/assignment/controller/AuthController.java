@@ -3,7 +3,7 @@ package com.assignment.controller;
 import com.assignment.dto.AuthResponse;
 import com.assignment.dto.LoginRequest;
 import com.assignment.dto.RegisterRequest;
-import com.assignment.model.User;
+import com.assignment.dto.UserResponse;
 import com.assignment.security.JwtTokenProvider;
 import com.assignment.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,9 +33,9 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<User> getCurrentUser(Authentication authentication) {
+    public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
         String token = authentication.getCredentials().toString();
         UUID userId = tokenProvider.getUserIdFromToken(token);
-        return ResponseEntity.ok(authService.getCurrentUser(userId));
+        return ResponseEntity.ok(UserResponse.from(authService.getCurrentUser(userId)));
     }
 }
\ No newline at end of file
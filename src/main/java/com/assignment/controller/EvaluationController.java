@@ -0,0 +1,21 @@
+package com.assignment.controller;
+
+import com.assignment.dto.EvaluationQueueStats;
+import com.assignment.service.EvaluationScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/evaluations")
+public class EvaluationController {
+
+    @Autowired
+    private EvaluationScheduler evaluationScheduler;
+
+    @GetMapping("/queue-stats")
+    public ResponseEntity<List<EvaluationQueueStats>> getQueueStats() {
+        return ResponseEntity.ok(evaluationScheduler.getQueueStats());
+    }
+}
\ No newline at end of file
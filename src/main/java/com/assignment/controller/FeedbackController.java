@@ -1,6 +1,6 @@
 package com.assignment.controller;
 
-import com.assignment.model.Feedback;
+import com.assignment.dto.FeedbackResponse;
 import com.assignment.service.AIEvaluationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +15,7 @@ public class FeedbackController {
     private AIEvaluationService aiEvaluationService;
 
     @GetMapping("/submission/{submissionId}")
-    public ResponseEntity<Feedback> getFeedbackBySubmission(@PathVariable String submissionId) {
-        return ResponseEntity.ok(aiEvaluationService.getFeedbackBySubmission(UUID.fromString(submissionId)));
+    public ResponseEntity<FeedbackResponse> getFeedbackBySubmission(@PathVariable String submissionId) {
+        return ResponseEntity.ok(FeedbackResponse.from(aiEvaluationService.getFeedbackBySubmission(UUID.fromString(submissionId))));
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.assignment.controller;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Weak ETags for listings derived from each row's id and @Version, so an
+ * unchanged listing can be answered with 304 before any JSON is written.
+ */
+final class ListingETags {
+
+    private ListingETags() {
+    }
+
+    static <T> String of(List<T> rows, Function<T, Object> id, Function<T, Long> version) {
+        long hash = 1125899906842597L;
+        for (T row : rows) {
+            hash = 31 * hash + Objects.hashCode(id.apply(row));
+            hash = 31 * hash + Objects.hashCode(version.apply(row));
+        }
+        return "W/\"" + Long.toHexString(hash) + "-" + rows.size() + "\"";
+    }
+}
\ No newline at end of file
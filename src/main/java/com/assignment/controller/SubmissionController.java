@@ -1,6 +1,7 @@
 package com.assignment.controller;
 
 import com.assignment.dto.SubmissionRequest;
+import com.assignment.dto.SubmissionResponse;
 import com.assignment.model.Submission;
 import com.assignment.security.JwtTokenProvider;
 import com.assignment.service.SubmissionService;
@@ -21,26 +22,43 @@ public class SubmissionController {
     private JwtTokenProvider tokenProvider;
 
     @GetMapping("/student")
-    public ResponseEntity<List<Submission>> getStudentSubmissions(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<SubmissionResponse>> getStudentSubmissions(@RequestHeader("Authorization") String token) {
         UUID userId = tokenProvider.getUserIdFromToken(token.substring(7));
-        return ResponseEntity.ok(submissionService.getStudentSubmissions(userId));
+        return listing(submissionService.getStudentSubmissions(userId));
     }
 
     @GetMapping("/assignment/{assignmentId}")
-    public ResponseEntity<List<Submission>> getSubmissionsByAssignment(@PathVariable String assignmentId) {
-        return ResponseEntity.ok(submissionService.getSubmissionsByAssignment(UUID.fromString(assignmentId)));
+    public ResponseEntity<List<SubmissionResponse>> getSubmissionsByAssignment(@PathVariable String assignmentId) {
+        return listing(submissionService.getSubmissionsByAssignment(UUID.fromString(assignmentId)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Submission> getSubmissionById(@PathVariable String id) {
-        return ResponseEntity.ok(submissionService.getSubmissionById(UUID.fromString(id)));
+    public ResponseEntity<SubmissionResponse> getSubmissionById(@PathVariable String id) {
+        return ResponseEntity.ok(SubmissionResponse.from(submissionService.getSubmissionById(UUID.fromString(id))));
+    }
+
+    @PostMapping("/assignment/{assignmentId}/regrade")
+    public ResponseEntity<List<SubmissionResponse>> regradeAssignment(
+            @PathVariable String assignmentId,
+            @RequestHeader("Authorization") String token) {
+        UUID userId = tokenProvider.getUserIdFromToken(token.substring(7));
+        return ResponseEntity.ok(submissionService.regradeAssignment(UUID.fromString(assignmentId), userId).stream()
+                .map(SubmissionResponse::from)
+                .toList());
     }
 
     @PostMapping
-    public ResponseEntity<Submission> createSubmission(
+    public ResponseEntity<SubmissionResponse> createSubmission(
             @RequestBody SubmissionRequest request,
-            @RequestHeader("Authorization") String token) {
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         UUID userId = tokenProvider.getUserIdFromToken(token.substring(7));
-        return ResponseEntity.ok(submissionService.createSubmission(request, userId));
+        return ResponseEntity.ok(SubmissionResponse.from(submissionService.createSubmission(request, userId, idempotencyKey)));
+    }
+
+    private ResponseEntity<List<SubmissionResponse>> listing(List<Submission> submissions) {
+        return ResponseEntity.ok()
+                .eTag(ListingETags.of(submissions, Submission::getId, Submission::getVersion))
+                .body(submissions.stream().map(SubmissionResponse::from).toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.assignment.controller;
+
+import com.assignment.dto.UploadResponse;
+import com.assignment.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UploadResponse> upload(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(fileStorageService.store(in));
+        }
+    }
+
+    @PostMapping("/sessions")
+    public ResponseEntity<UploadResponse> createUpload() {
+        return ResponseEntity.ok(fileStorageService.createUpload());
+    }
+
+    @GetMapping("/sessions/{uploadId}")
+    public ResponseEntity<UploadResponse> getUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(fileStorageService.getUpload(uploadId));
+    }
+
+    @PutMapping("/sessions/{uploadId}")
+    public ResponseEntity<UploadResponse> appendChunk(
+            @PathVariable String uploadId,
+            @RequestHeader("Upload-Offset") long offset,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(fileStorageService.appendChunk(uploadId, offset, request.getInputStream()));
+    }
+
+    @PostMapping("/sessions/{uploadId}/complete")
+    public ResponseEntity<UploadResponse> completeUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(fileStorageService.completeUpload(uploadId));
+    }
+
+    @GetMapping("/files/{hash}")
+    public ResponseEntity<FileSystemResource> getFile(@PathVariable String hash) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(fileStorageService.getBlob(hash)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.assignment.dto;
+
+import com.assignment.model.Assignment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class AssignmentResponse {
+    private UUID id;
+    private UUID instructor_id;
+    private String title;
+    private String description;
+    private LocalDateTime due_date;
+    private Integer max_score;
+    private Assignment.EvaluationMode evaluation_mode;
+    private LocalDateTime created_at;
+
+    public static AssignmentResponse from(Assignment assignment) {
+        return new AssignmentResponse(assignment.getId(), assignment.getInstructorId(), assignment.getTitle(),
+                assignment.getDescription(), assignment.getDueDate(), assignment.getMaxScore(),
+                assignment.getEvaluationMode(), assignment.getCreatedAt());
+    }
+}
\ No newline at end of file
@@ -1,12 +1,11 @@
 package com.assignment.dto;
 
-import com.assignment.model.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
 @AllArgsConstructor
 public class AuthResponse {
-    private User user;
+    private UserResponse user;
     private String token;
 }
\ No newline at end of file
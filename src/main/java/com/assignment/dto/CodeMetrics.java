@@ -0,0 +1,13 @@
+package com.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CodeMetrics {
+    private int codeLines;
+    private int commentLines;
+    private int tokens;
+    private int maxNestingDepth;
+}
\ No newline at end of file
@@ -9,4 +9,5 @@ public class CreateAssignmentRequest {
     private String description;
     private String due_date;
     private Integer max_score;
+    private String evaluation_mode;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EvaluationQueueStats {
+    private String priority;
+    private long queued;
+    private long dispatched;
+    private double average_wait_ms;
+    private double max_wait_ms;
+}
\ No newline at end of file
@@ -1,13 +1,24 @@
 package com.assignment.dto;
 
+import com.assignment.model.Feedback;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 public class FeedbackResponse {
-    private String submission_id;
+    private UUID id;
+    private UUID submission_id;
     private Double plagiarism_risk;
     private String feedback_summary;
     private Integer score;
+    private String detailed_feedback;
+    private LocalDateTime created_at;
+
+    public static FeedbackResponse from(Feedback feedback) {
+        return new FeedbackResponse(feedback.getId(), feedback.getSubmissionId(), feedback.getPlagiarismRisk(),
+                feedback.getFeedbackSummary(), feedback.getScore(), feedback.getDetailedFeedback(), feedback.getCreatedAt());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GeneratedFeedback {
+    private String summary;
+    private String detailedFeedback;
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class SimilarityMatch {
+    private UUID submissionId;
+    private double similarity;
+}
\ No newline at end of file
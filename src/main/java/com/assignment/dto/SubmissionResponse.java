@@ -0,0 +1,24 @@
+package com.assignment.dto;
+
+import com.assignment.model.Submission;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class SubmissionResponse {
+    private UUID id;
+    private UUID assignment_id;
+    private UUID student_id;
+    private String content;
+    private String file_url;
+    private Submission.SubmissionStatus status;
+    private LocalDateTime submitted_at;
+
+    public static SubmissionResponse from(Submission submission) {
+        return new SubmissionResponse(submission.getId(), submission.getAssignmentId(), submission.getStudentId(),
+                submission.getContent(), submission.getFileUrl(), submission.getStatus(), submission.getSubmittedAt());
+    }
+}
\ No newline at end of file
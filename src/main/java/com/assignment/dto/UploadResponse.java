@@ -0,0 +1,13 @@
+package com.assignment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class UploadResponse {
+    private String upload_id;
+    private Long offset;
+    private String content_hash;
+    private String file_url;
+}
\ No newline at end of file
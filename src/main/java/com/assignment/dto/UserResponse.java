@@ -0,0 +1,21 @@
+package com.assignment.dto;
+
+import com.assignment.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class UserResponse {
+    private UUID id;
+    private String email;
+    private String full_name;
+    private User.UserRole role;
+    private LocalDateTime created_at;
+
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getEmail(), user.getFullName(), user.getRole(), user.getCreatedAt());
+    }
+}
\ No newline at end of file
@@ -28,6 +28,18 @@ public class Assignment {
     @Column(name = "max_score", nullable = false)
     private Integer maxScore = 100;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "evaluation_mode")
+    private EvaluationMode evaluationMode = EvaluationMode.prose;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
+    public enum EvaluationMode {
+        prose, code
+    }
 }
\ No newline at end of file
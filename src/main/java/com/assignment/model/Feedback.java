@@ -13,7 +13,7 @@ public class Feedback {
     @GeneratedValue
     private UUID id;
 
-    @Column(name = "submission_id", nullable = false)
+    @Column(name = "submission_id", nullable = false, unique = true)
     private UUID submissionId;
 
     @Column(name = "plagiarism_risk", nullable = false)
@@ -30,4 +30,8 @@ public class Feedback {
 
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
 }
\ No newline at end of file
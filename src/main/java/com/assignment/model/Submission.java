@@ -1,12 +1,13 @@
 package com.assignment.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", uniqueConstraints = @UniqueConstraint(columnNames = {"student_id", "idempotency_key"}))
 @Data
 public class Submission {
     @Id
@@ -32,6 +33,14 @@ public class Submission {
     @Column(name = "submitted_at")
     private LocalDateTime submittedAt = LocalDateTime.now();
 
+    @JsonIgnore
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     public enum SubmissionStatus {
         pending, evaluated, reviewed
     }
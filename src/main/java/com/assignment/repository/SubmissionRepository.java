@@ -2,10 +2,23 @@ package com.assignment.repository;
 
 import com.assignment.model.Submission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
     List<Submission> findByStudentId(UUID studentId);
     List<Submission> findByAssignmentId(UUID assignmentId);
+    List<Submission> findByStatus(Submission.SubmissionStatus status);
+    Optional<Submission> findByStudentIdAndIdempotencyKey(UUID studentId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("update Submission s set s.status = :status, s.version = s.version + 1 where s.id in :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") Submission.SubmissionStatus status);
 }
\ No newline at end of file
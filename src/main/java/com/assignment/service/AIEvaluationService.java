@@ -1,11 +1,14 @@
 package com.assignment.service;
 
+import com.assignment.dto.CodeMetrics;
+import com.assignment.dto.GeneratedFeedback;
+import com.assignment.dto.SimilarityMatch;
+import com.assignment.model.Assignment;
 import com.assignment.model.Feedback;
 import com.assignment.model.Submission;
+import com.assignment.repository.AssignmentRepository;
 import com.assignment.repository.FeedbackRepository;
-import com.assignment.repository.SubmissionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Random;
@@ -17,27 +20,50 @@ public class AIEvaluationService {
     private FeedbackRepository feedbackRepository;
 
     @Autowired
-    private SubmissionRepository submissionRepository;
+    private EvaluationResultWriter evaluationResultWriter;
 
-    @Async
-    public void evaluateSubmission(Submission submission) {
-        double plagiarismRisk = calculatePlagiarismRisk(submission.getContent());
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private FeedbackGenerator feedbackGenerator;
+
+    @Autowired
+    private CodeNormalizer codeNormalizer;
+
+    @Autowired
+    private FingerprintIndex fingerprintIndex;
 
-        String feedbackSummary = generateFeedback(submission.getContent());
+    public void evaluateSubmission(Submission submission) {
+        boolean codeMode = assignmentRepository.findById(submission.getAssignmentId())
+                .map(Assignment::getEvaluationMode)
+                .orElse(null) == Assignment.EvaluationMode.code;
+
+        GeneratedFeedback generated = feedbackGenerator.generate(submission.getContent());
+        String detailedFeedback = generated.getDetailedFeedback();
+
+        double plagiarismRisk;
+        if (codeMode) {
+            SimilarityMatch match = fingerprintIndex.matchAndAdd(submission);
+            plagiarismRisk = match.getSimilarity() * 100;
+            String codeReport = describeCode(codeNormalizer.measure(submission.getContent()), match);
+            detailedFeedback = detailedFeedback == null ? codeReport : detailedFeedback + "\n\n" + codeReport;
+        } else {
+            plagiarismRisk = calculatePlagiarismRisk(submission.getContent());
+        }
 
         int score = calculateScore(submission.getContent(), plagiarismRisk);
 
-        Feedback feedback = new Feedback();
+        Feedback feedback = feedbackRepository.findBySubmissionId(submission.getId())
+                .orElseGet(Feedback::new);
         feedback.setSubmissionId(submission.getId());
         feedback.setPlagiarismRisk(plagiarismRisk);
-        feedback.setFeedbackSummary(feedbackSummary);
+        feedback.setFeedbackSummary(generated.getSummary());
         feedback.setScore(score);
-        feedback.setDetailedFeedback(generateDetailedFeedback(submission.getContent()));
-
-        feedbackRepository.save(feedback);
+        feedback.setDetailedFeedback(detailedFeedback);
 
         submission.setStatus(Submission.SubmissionStatus.evaluated);
-        submissionRepository.save(submission);
+        evaluationResultWriter.enqueue(feedback);
     }
 
     private double calculatePlagiarismRisk(String content) {
@@ -52,20 +78,6 @@ public class AIEvaluationService {
         }
     }
 
-    private String generateFeedback(String content) {
-        int wordCount = content.split("\\s+").length;
-
-        if (wordCount < 50) {
-            return "The submission is too brief. Please provide more detailed explanations and examples.";
-        } else if (wordCount < 100) {
-            return "Good attempt, but the explanation could be more comprehensive. Consider adding more details.";
-        } else if (wordCount < 200) {
-            return "Well-structured response with good coverage of the topic. Some sections could be elaborated further.";
-        } else {
-            return "Excellent comprehensive response with detailed explanations and good structure.";
-        }
-    }
-
     private int calculateScore(String content, double plagiarismRisk) {
         int wordCount = content.split("\\s+").length;
         int baseScore = Math.min(100, wordCount / 2);
@@ -75,8 +87,14 @@ public class AIEvaluationService {
         return Math.max(0, baseScore - plagiarismPenalty);
     }
 
-    private String generateDetailedFeedback(String content) {
-        return "Content analysis shows good understanding. Continue to develop your explanations with more specific examples and references.";
+    private String describeCode(CodeMetrics metrics, SimilarityMatch match) {
+        String summary = String.format("Code metrics: %d lines of code, %d comment lines, %d tokens, max nesting depth %d.",
+                metrics.getCodeLines(), metrics.getCommentLines(), metrics.getTokens(), metrics.getMaxNestingDepth());
+        if (match.getSubmissionId() == null) {
+            return summary + " No structural overlap with other submissions.";
+        }
+        return summary + String.format(" Highest structural similarity: %.1f%% with submission %s.",
+                match.getSimilarity() * 100, match.getSubmissionId());
     }
 
     public Feedback getFeedbackBySubmission(java.util.UUID submissionId) {
@@ -4,10 +4,13 @@ import com.assignment.dto.CreateAssignmentRequest;
 import com.assignment.model.Assignment;
 import com.assignment.repository.AssignmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
@@ -36,7 +39,18 @@ public class AssignmentService {
         assignment.setDescription(request.getDescription());
         assignment.setDueDate(LocalDateTime.parse(request.getDue_date()));
         assignment.setMaxScore(request.getMax_score());
+        if (request.getEvaluation_mode() != null) {
+            assignment.setEvaluationMode(parseEvaluationMode(request.getEvaluation_mode()));
+        }
 
         return assignmentRepository.save(assignment);
     }
+
+    private static Assignment.EvaluationMode parseEvaluationMode(String mode) {
+        try {
+            return Assignment.EvaluationMode.valueOf(mode.trim().toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown evaluation_mode: " + mode);
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.assignment.service;
 import com.assignment.dto.AuthResponse;
 import com.assignment.dto.LoginRequest;
 import com.assignment.dto.RegisterRequest;
+import com.assignment.dto.UserResponse;
 import com.assignment.model.User;
 import com.assignment.repository.UserRepository;
 import com.assignment.security.JwtTokenProvider;
@@ -41,9 +42,8 @@ public class AuthService implements UserDetailsService {
         user = userRepository.save(user);
 
         String token = tokenProvider.generateToken(user.getId());
-        user.setPassword(null);
 
-        return new AuthResponse(user, token);
+        return new AuthResponse(UserResponse.from(user), token);
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -55,16 +55,13 @@ public class AuthService implements UserDetailsService {
         }
 
         String token = tokenProvider.generateToken(user.getId());
-        user.setPassword(null);
 
-        return new AuthResponse(user, token);
+        return new AuthResponse(UserResponse.from(user), token);
     }
 
     public User getCurrentUser(UUID userId) {
-        User user = userRepository.findById(userId)
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setPassword(null);
-        return user;
     }
 
     @Override
@@ -0,0 +1,57 @@
+package com.assignment.service;
+
+import java.time.Duration;
+
+public class CircuitBreaker {
+
+    public enum State {
+        closed, open, half_open
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.closed;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    public synchronized boolean allowRequest() {
+        if (state == State.open && System.nanoTime() - openedAt >= openNanos) {
+            state = State.half_open;
+            trialInFlight = false;
+        }
+        if (state == State.half_open) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        }
+        return state == State.closed;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.closed;
+    }
+
+    public synchronized void recordFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.half_open || consecutiveFailures >= failureThreshold) {
+            state = State.open;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.assignment.service;
+
+import com.assignment.dto.CodeMetrics;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lexer-level normalizer for source submissions. Comments and whitespace are
+ * dropped, identifiers collapse to {@code V}, literals to {@code S}/{@code N},
+ * while keywords and operators are kept, so renaming and reformatting do not
+ * change the token stream. A C preprocessor line, continuations included,
+ * collapses to one {@code #name} token.
+ */
+@Component
+public class CodeNormalizer {
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "abstract", "and", "as", "assert", "async", "await", "boolean", "break", "byte", "case",
+            "catch", "char", "class", "const", "continue", "def", "default", "del", "do", "double",
+            "elif", "else", "enum", "except", "extends", "false", "final", "finally", "float", "for",
+            "from", "func", "function", "global", "if", "implements", "import", "in", "instanceof",
+            "int", "interface", "is", "lambda", "let", "long", "new", "none", "not", "null", "or",
+            "package", "pass", "private", "protected", "public", "raise", "return", "short", "static",
+            "struct", "super", "switch", "this", "throw", "throws", "true", "try", "var", "void",
+            "while", "with", "yield");
+
+    private static final Set<String> DIRECTIVES = Set.of(
+            "define", "endif", "ifdef", "ifndef", "include", "pragma", "undef");
+
+    // Also common English words, so "# if ..." is far more likely a Python or shell comment.
+    private static final Set<String> UNSPACED_DIRECTIVES = Set.of(
+            "elif", "else", "error", "if", "import", "line", "warning");
+
+    public List<String> tokenize(String source) {
+        return scan(source, null);
+    }
+
+    public CodeMetrics measure(String source) {
+        LineStats stats = new LineStats();
+        List<String> tokens = scan(source, stats);
+        stats.endLine();
+        return new CodeMetrics(stats.codeLines, stats.commentLines, tokens.size(), stats.maxDepth);
+    }
+
+    private List<String> scan(String src, LineStats stats) {
+        List<String> tokens = new ArrayList<>();
+        int depth = 0;
+        int i = 0;
+        int n = src.length();
+
+        while (i < n) {
+            char c = src.charAt(i);
+
+            if (c == '\n') {
+                if (stats != null) {
+                    stats.endLine();
+                }
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                if (stats != null && !stats.lineHasContent) {
+                    stats.indent += c == '\t' ? 4 : 1;
+                }
+                i++;
+            } else if (c == '#' && directiveName(src, i) != null) {
+                emit(tokens, "#" + directiveName(src, i), stats, depth);
+                i++;
+                while (i < n && (src.charAt(i) != '\n' || isContinued(src, i))) {
+                    if (src.charAt(i) == '\n' && stats != null) {
+                        stats.endLine();
+                        stats.markCode(depth);
+                    }
+                    i++;
+                }
+            } else if (c == '#' || src.startsWith("//", i)) {
+                int end = src.indexOf('\n', i);
+                i = end < 0 ? n : end;
+                if (stats != null) {
+                    stats.markComment();
+                }
+            } else if (src.startsWith("/*", i)) {
+                int end = src.indexOf("*/", i + 2);
+                int stop = end < 0 ? n : end + 2;
+                if (stats != null) {
+                    stats.markComment();
+                    for (int j = i; j < stop; j++) {
+                        if (src.charAt(j) == '\n') {
+                            stats.endLine();
+                            stats.markComment();
+                        }
+                    }
+                }
+                i = stop;
+            } else if (c == '"' || c == '\'') {
+                String quote = src.startsWith(String.valueOf(c).repeat(3), i) ? String.valueOf(c).repeat(3) : String.valueOf(c);
+                int j = i + quote.length();
+                while (j < n && !src.startsWith(quote, j)) {
+                    if (src.charAt(j) == '\\') {
+                        j++;
+                    } else if (src.charAt(j) == '\n' && stats != null) {
+                        stats.endLine();
+                        stats.markCode(depth);
+                    }
+                    j++;
+                }
+                i = Math.min(n, j + quote.length());
+                emit(tokens, "S", stats, depth);
+            } else if (Character.isDigit(c)) {
+                while (i < n && (Character.isLetterOrDigit(src.charAt(i)) || src.charAt(i) == '.' || src.charAt(i) == '_')) {
+                    i++;
+                }
+                emit(tokens, "N", stats, depth);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < n && Character.isJavaIdentifierPart(src.charAt(i))) {
+                    i++;
+                }
+                String word = src.substring(start, i);
+                String lower = word.toLowerCase(Locale.ROOT);
+                emit(tokens, KEYWORDS.contains(lower) ? lower : "V", stats, depth);
+            } else {
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth = Math.max(0, depth - 1);
+                }
+                emit(tokens, String.valueOf(c), stats, depth);
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the directive name when the {@code #} at {@code hash} starts a C
+     * preprocessor line, or null when it starts a shell/Python comment.
+     */
+    private static String directiveName(String src, int hash) {
+        for (int j = hash - 1; j >= 0 && src.charAt(j) != '\n'; j--) {
+            if (src.charAt(j) != ' ' && src.charAt(j) != '\t') {
+                return null;
+            }
+        }
+        int start = hash + 1;
+        while (start < src.length() && (src.charAt(start) == ' ' || src.charAt(start) == '\t')) {
+            start++;
+        }
+        int end = start;
+        while (end < src.length() && Character.isLetter(src.charAt(end))) {
+            end++;
+        }
+        String name = src.substring(start, end);
+        if (DIRECTIVES.contains(name) || (start == hash + 1 && UNSPACED_DIRECTIVES.contains(name))) {
+            return name;
+        }
+        return null;
+    }
+
+    private static boolean isContinued(String src, int newline) {
+        int j = newline - 1;
+        if (j >= 0 && src.charAt(j) == '\r') {
+            j--;
+        }
+        return j >= 0 && src.charAt(j) == '\\';
+    }
+
+    private static void emit(List<String> tokens, String token, LineStats stats, int depth) {
+        tokens.add(token);
+        if (stats != null) {
+            stats.markCode(depth);
+        }
+    }
+
+    private static class LineStats {
+        private int codeLines;
+        private int commentLines;
+        private int maxDepth;
+        private int indent;
+        private boolean lineHasContent;
+        private boolean lineHasCode;
+        private boolean lineHasComment;
+
+        void markCode(int braceDepth) {
+            if (!lineHasCode) {
+                maxDepth = Math.max(maxDepth, Math.max(braceDepth, indent / 4));
+            }
+            lineHasContent = true;
+            lineHasCode = true;
+        }
+
+        void markComment() {
+            lineHasContent = true;
+            lineHasComment = true;
+        }
+
+        void endLine() {
+            if (lineHasCode) {
+                codeLines++;
+            } else if (lineHasComment) {
+                commentLines++;
+            }
+            indent = 0;
+            lineHasContent = false;
+            lineHasCode = false;
+            lineHasComment = false;
+        }
+    }
+}
\ No newline at end of file
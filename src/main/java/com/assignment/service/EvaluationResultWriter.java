@@ -0,0 +1,199 @@
+package com.assignment.service;
+
+import com.assignment.model.Feedback;
+import com.assignment.model.Submission;
+import com.assignment.repository.FeedbackRepository;
+import com.assignment.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind buffer for evaluation results. Feedback rows are saved with JDBC
+ * batching and the matching submissions are flipped to evaluated with a single
+ * bulk UPDATE, all in one transaction per flush. Anything still buffered is
+ * flushed on shutdown.
+ */
+@Service
+public class EvaluationResultWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EvaluationResultWriter.class);
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${evaluation.writer.batch-size:50}")
+    private int batchSize;
+
+    @Value("${evaluation.writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private final Map<UUID, Feedback> buffer = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "evaluation-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public void enqueue(Feedback feedback) {
+        int size;
+        synchronized (buffer) {
+            buffer.put(feedback.getSubmissionId(), feedback);
+            size = buffer.size();
+        }
+        if (size >= batchSize && flushRequested.compareAndSet(false, true) && !flusher.isShutdown()) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            List<Feedback> batch = drain();
+            while (!batch.isEmpty()) {
+                write(batch);
+                batch = drain();
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Evaluation result flush failed, will retry", ex);
+        }
+    }
+
+    private List<Feedback> drain() {
+        synchronized (buffer) {
+            List<Feedback> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            Iterator<Feedback> iterator = buffer.values().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            return batch;
+        }
+    }
+
+    private void write(List<Feedback> batch) {
+        List<UUID> submissionIds = new ArrayList<>(batch.size());
+        List<Feedback> unsaved = new ArrayList<>();
+        for (Feedback feedback : batch) {
+            submissionIds.add(feedback.getSubmissionId());
+            if (feedback.getId() == null) {
+                unsaved.add(feedback);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                feedbackRepository.saveAll(batch);
+                submissionRepository.updateStatus(submissionIds, Submission.SubmissionStatus.evaluated);
+            });
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException ex) {
+            forgetGeneratedState(unsaved);
+            writeIndividually(batch);
+        } catch (RuntimeException ex) {
+            forgetGeneratedState(unsaved);
+            synchronized (buffer) {
+                for (Feedback feedback : batch) {
+                    buffer.putIfAbsent(feedback.getSubmissionId(), feedback);
+                }
+            }
+            throw ex;
+        }
+    }
+
+    private static void forgetGeneratedState(List<Feedback> unsaved) {
+        // A rolled-back persist leaves the generated id and version behind, which
+        // would make the next save() treat the row as an existing, stale entity.
+        for (Feedback feedback : unsaved) {
+            feedback.setId(null);
+            feedback.setVersion(null);
+        }
+    }
+
+    private void writeIndividually(List<Feedback> batch) {
+        for (Feedback feedback : batch) {
+            boolean unsaved = feedback.getId() == null;
+            try {
+                writeOne(feedback);
+            } catch (DataIntegrityViolationException ex) {
+                if (unsaved) {
+                    // A regrade evaluated while the earlier result was still buffered builds
+                    // a fresh row; once that earlier row lands, apply the newer values to it.
+                    mergeIntoExisting(feedback);
+                } else {
+                    log.info("Dropping stale evaluation result for submission {}: {}", feedback.getSubmissionId(), ex.getMessage());
+                }
+            } catch (OptimisticLockingFailureException ex) {
+                log.info("Dropping stale evaluation result for submission {}: {}", feedback.getSubmissionId(), ex.getMessage());
+            }
+        }
+    }
+
+    private void mergeIntoExisting(Feedback feedback) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Feedback existing = feedbackRepository.findBySubmissionId(feedback.getSubmissionId())
+                        .orElseThrow(() -> new IllegalStateException("Feedback for submission "
+                                + feedback.getSubmissionId() + " conflicted but does not exist"));
+                existing.setPlagiarismRisk(feedback.getPlagiarismRisk());
+                existing.setFeedbackSummary(feedback.getFeedbackSummary());
+                existing.setScore(feedback.getScore());
+                existing.setDetailedFeedback(feedback.getDetailedFeedback());
+                feedbackRepository.save(existing);
+                submissionRepository.updateStatus(List.of(feedback.getSubmissionId()), Submission.SubmissionStatus.evaluated);
+            });
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException | IllegalStateException ex) {
+            log.warn("Could not merge evaluation result for submission {}: {}", feedback.getSubmissionId(), ex.getMessage());
+        }
+    }
+
+    private void writeOne(Feedback feedback) {
+        transactionTemplate.executeWithoutResult(status -> {
+            feedbackRepository.save(feedback);
+            submissionRepository.updateStatus(List.of(feedback.getSubmissionId()), Submission.SubmissionStatus.evaluated);
+        });
+    }
+}
\ No newline at end of file
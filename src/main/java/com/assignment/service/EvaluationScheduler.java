@@ -0,0 +1,231 @@
+package com.assignment.service;
+
+import com.assignment.dto.EvaluationQueueStats;
+import com.assignment.model.Assignment;
+import com.assignment.model.Submission;
+import com.assignment.repository.AssignmentRepository;
+import com.assignment.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs evaluations on a bounded worker pool ordered by priority class, then by
+ * per-assignment fair-queueing virtual finish time so one large course cannot
+ * starve the others. Each priority class keeps its own virtual clock, so a large
+ * batch regrade does not push the same course's interactive work back. The queue is in memory only, so submissions still pending
+ * at startup are queued again.
+ */
+@Service
+public class EvaluationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EvaluationScheduler.class);
+
+    public enum JobType {
+        interactive, batch_regrade
+    }
+
+    public enum Priority {
+        urgent, interactive, batch
+    }
+
+    @Autowired
+    private AIEvaluationService aiEvaluationService;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Value("${evaluation.scheduler.threads:4}")
+    private int threads;
+
+    @Value("${evaluation.scheduler.urgent-window-hours:24}")
+    private long urgentWindowHours;
+
+    @Value("${evaluation.scheduler.size-unit-chars:4096}")
+    private int sizeUnitChars;
+
+    private ThreadPoolExecutor executor;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<UUID> queuedSubmissions = ConcurrentHashMap.newKeySet();
+    private final Map<Priority, Map<UUID, Long>> lastVirtualFinish = new EnumMap<>(Priority.class);
+    private final Map<Priority, Long> virtualTime = new EnumMap<>(Priority.class);
+
+    private final Map<Priority, PriorityMetrics> metrics = new EnumMap<>(Priority.class);
+
+    public EvaluationScheduler() {
+        for (Priority priority : Priority.values()) {
+            metrics.put(priority, new PriorityMetrics());
+            lastVirtualFinish.put(priority, new HashMap<>());
+            virtualTime.put(priority, 0L);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "evaluation-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Evaluation queue did not drain before shutdown, {} jobs left pending for the next start",
+                    executor.getQueue().size());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeuePending() {
+        List<Submission> pending = submissionRepository.findByStatus(Submission.SubmissionStatus.pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<UUID, LocalDateTime> dueDates = new HashMap<>();
+        for (Assignment assignment : assignmentRepository.findAllById(
+                pending.stream().map(Submission::getAssignmentId).distinct().toList())) {
+            dueDates.put(assignment.getId(), assignment.getDueDate());
+        }
+        for (Submission submission : pending) {
+            schedule(submission, dueDates.get(submission.getAssignmentId()), JobType.interactive);
+        }
+        log.info("Re-queued {} pending submissions", pending.size());
+    }
+
+    public void schedule(Submission submission, LocalDateTime dueDate, JobType jobType) {
+        if (!queuedSubmissions.add(submission.getId())) {
+            return;
+        }
+        Priority priority = classify(dueDate, jobType);
+        long cost = 1 + lengthOf(submission) / sizeUnitChars;
+
+        long virtualFinish;
+        synchronized (this) {
+            Map<UUID, Long> finishByAssignment = lastVirtualFinish.get(priority);
+            long start = Math.max(virtualTime.get(priority), finishByAssignment.getOrDefault(submission.getAssignmentId(), 0L));
+            virtualFinish = start + cost;
+            finishByAssignment.put(submission.getAssignmentId(), virtualFinish);
+        }
+
+        metrics.get(priority).queued.incrementAndGet();
+        executor.execute(new EvaluationTask(submission, priority, virtualFinish, cost, sequence.incrementAndGet()));
+    }
+
+    public List<EvaluationQueueStats> getQueueStats() {
+        List<EvaluationQueueStats> stats = new ArrayList<>();
+        for (Priority priority : Priority.values()) {
+            PriorityMetrics m = metrics.get(priority);
+            long dispatched = m.dispatched.sum();
+            double averageWaitMs = dispatched == 0 ? 0.0 : m.totalWaitNanos.sum() / (dispatched * 1_000_000.0);
+            stats.add(new EvaluationQueueStats(priority.name(), m.queued.get(), dispatched,
+                    averageWaitMs, m.maxWaitNanos.get() / 1_000_000.0));
+        }
+        return stats;
+    }
+
+    private Priority classify(LocalDateTime dueDate, JobType jobType) {
+        if (jobType == JobType.batch_regrade) {
+            return Priority.batch;
+        }
+        if (dueDate != null) {
+            // Past-due work is late already; only an approaching deadline is urgent.
+            Duration remaining = Duration.between(LocalDateTime.now(), dueDate);
+            if (!remaining.isNegative() && remaining.toHours() < urgentWindowHours) {
+                return Priority.urgent;
+            }
+        }
+        return Priority.interactive;
+    }
+
+    private static int lengthOf(Submission submission) {
+        return submission.getContent() == null ? 0 : submission.getContent().length();
+    }
+
+    private synchronized void advanceVirtualTime(Priority priority, long virtualStart) {
+        virtualTime.merge(priority, virtualStart, Math::max);
+    }
+
+    private static class PriorityMetrics {
+        private final AtomicLong queued = new AtomicLong();
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+    }
+
+    private class EvaluationTask implements Runnable, Comparable<EvaluationTask> {
+        private final Submission submission;
+        private final Priority priority;
+        private final long virtualFinish;
+        private final long cost;
+        private final long seq;
+        private final long enqueuedAt = System.nanoTime();
+
+        EvaluationTask(Submission submission, Priority priority, long virtualFinish, long cost, long seq) {
+            this.submission = submission;
+            this.priority = priority;
+            this.virtualFinish = virtualFinish;
+            this.cost = cost;
+            this.seq = seq;
+        }
+
+        @Override
+        public void run() {
+            long waited = System.nanoTime() - enqueuedAt;
+            PriorityMetrics m = metrics.get(priority);
+            m.queued.decrementAndGet();
+            m.dispatched.increment();
+            m.totalWaitNanos.add(waited);
+            m.maxWaitNanos.accumulateAndGet(waited, Math::max);
+            advanceVirtualTime(priority, virtualFinish - cost);
+            queuedSubmissions.remove(submission.getId());
+
+            try {
+                aiEvaluationService.evaluateSubmission(submission);
+            } catch (RuntimeException ex) {
+                log.error("Evaluation failed for submission {}", submission.getId(), ex);
+            }
+        }
+
+        @Override
+        public int compareTo(EvaluationTask other) {
+            int byPriority = priority.compareTo(other.priority);
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int byFinish = Long.compare(virtualFinish, other.virtualFinish);
+            return byFinish != 0 ? byFinish : Long.compare(seq, other.seq);
+        }
+    }
+}
\ No newline at end of file
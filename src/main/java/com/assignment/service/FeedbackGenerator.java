@@ -0,0 +1,7 @@
+package com.assignment.service;
+
+import com.assignment.dto.GeneratedFeedback;
+
+public interface FeedbackGenerator {
+    GeneratedFeedback generate(String content);
+}
\ No newline at end of file
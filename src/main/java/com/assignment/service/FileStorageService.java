@@ -0,0 +1,273 @@
+package com.assignment.service;
+
+import com.assignment.dto.UploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streams uploads to disk through NIO channels. Partial uploads live under
+ * {@code partial/} keyed by upload id so they can be resumed after a restart;
+ * completed uploads are moved into {@code blobs/} under their SHA-256. Chunk
+ * appends and completion of the same upload are serialized on a per-upload lock,
+ * so a retried chunk cannot write over one that is still streaming. Text is only
+ * extracted from plain-text files and source files inside zips; anything with NUL
+ * bytes in its first block is treated as binary and skipped.
+ */
+@Service
+public class FileStorageService {
+
+    public static final String FILE_URL_PREFIX = "/api/uploads/files/";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BINARY_SNIFF_BYTES = 8000;
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Set<String> TEXT_EXTENSIONS = Set.of(
+            "txt", "md", "java", "kt", "py", "c", "h", "cpp", "hpp", "cs", "js", "ts",
+            "go", "rs", "rb", "php", "scala", "swift", "sql", "html", "css", "json");
+
+    @Value("${storage.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${storage.max-upload-bytes:536870912}")
+    private long maxUploadBytes;
+
+    @Value("${storage.max-extracted-chars:1000000}")
+    private int maxExtractedChars;
+
+    private final Map<String, Object> uploadLocks = new ConcurrentHashMap<>();
+
+    public UploadResponse createUpload() {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(partialDir());
+            Files.createFile(partialPath(uploadId));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new UploadResponse(uploadId, 0L, null, null);
+    }
+
+    public UploadResponse getUpload(String uploadId) {
+        return new UploadResponse(uploadId, currentOffset(uploadId), null, null);
+    }
+
+    public UploadResponse appendChunk(String uploadId, long offset, InputStream body) {
+        Path partial = partialPath(uploadId);
+        synchronized (lockFor(uploadId)) {
+            long current = currentOffset(uploadId);
+            if (offset != current) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Upload offset mismatch, expected " + current);
+            }
+
+            try (ReadableByteChannel in = Channels.newChannel(body);
+                 FileChannel out = FileChannel.open(partial, StandardOpenOption.WRITE)) {
+                long position = offset;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, BUFFER_SIZE)) > 0) {
+                    position += transferred;
+                    if (position > maxUploadBytes) {
+                        out.truncate(offset);
+                        throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Upload exceeds size limit");
+                    }
+                }
+                out.force(false);
+                return new UploadResponse(uploadId, position, null, null);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    public UploadResponse completeUpload(String uploadId) {
+        Path partial = partialPath(uploadId);
+        synchronized (lockFor(uploadId)) {
+            currentOffset(uploadId);
+
+            try {
+                String hash = sha256(partial);
+                long size = Files.size(partial);
+                Path blob = blobPath(hash);
+                Files.createDirectories(blob.getParent());
+                if (Files.exists(blob)) {
+                    Files.delete(partial);
+                } else {
+                    Files.move(partial, blob, StandardCopyOption.ATOMIC_MOVE);
+                }
+                // Later calls for this id fail on the missing partial file, even
+                // if they still hold the lock object being removed here.
+                uploadLocks.remove(partial.getFileName().toString());
+                return new UploadResponse(uploadId, size, hash, FILE_URL_PREFIX + hash);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    public UploadResponse store(InputStream body) {
+        UploadResponse upload = createUpload();
+        appendChunk(upload.getUpload_id(), 0L, body);
+        return completeUpload(upload.getUpload_id());
+    }
+
+    public Path getBlob(String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches() || !Files.exists(blobPath(hash))) {
+            throw new RuntimeException("File not found");
+        }
+        return blobPath(hash);
+    }
+
+    public Optional<String> extractText(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(FILE_URL_PREFIX)) {
+            return Optional.empty();
+        }
+        Path blob = getBlob(fileUrl.substring(FILE_URL_PREFIX.length()));
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(blob), BUFFER_SIZE)) {
+            StringBuilder text = new StringBuilder();
+            if (isZip(in)) {
+                extractArchive(in, text);
+            } else if (!isPdf(in) && !isBinary(in)) {
+                appendText(in, text);
+            }
+            return text.length() == 0 ? Optional.empty() : Optional.of(text.toString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void extractArchive(InputStream in, StringBuilder text) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null && text.length() < maxExtractedChars) {
+            if (entry.isDirectory() || !TEXT_EXTENSIONS.contains(extensionOf(entry.getName()))) {
+                continue;
+            }
+            InputStream entryIn = new BufferedInputStream(zip, BUFFER_SIZE);
+            if (isBinary(entryIn)) {
+                continue;
+            }
+            text.append("// ").append(entry.getName()).append('\n');
+            appendText(entryIn, text);
+            text.append('\n');
+        }
+    }
+
+    private void appendText(InputStream in, StringBuilder text) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        char[] buffer = new char[8192];
+        int read;
+        while (text.length() < maxExtractedChars && (read = reader.read(buffer)) >= 0) {
+            text.append(buffer, 0, Math.min(read, maxExtractedChars - text.length()));
+        }
+    }
+
+    private static boolean isZip(InputStream in) throws IOException {
+        return startsWith(in, new byte[] {'P', 'K', 3, 4});
+    }
+
+    private static boolean isPdf(InputStream in) throws IOException {
+        return startsWith(in, new byte[] {'%', 'P', 'D', 'F'});
+    }
+
+    private static boolean isBinary(InputStream in) throws IOException {
+        in.mark(BINARY_SNIFF_BYTES);
+        byte[] head = in.readNBytes(BINARY_SNIFF_BYTES);
+        in.reset();
+        for (byte b : head) {
+            if (b == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(InputStream in, byte[] magic) throws IOException {
+        in.mark(magic.length);
+        byte[] head = in.readNBytes(magic.length);
+        in.reset();
+        return Arrays.equals(head, magic);
+    }
+
+    private static String extensionOf(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private Object lockFor(String uploadId) {
+        return uploadLocks.computeIfAbsent(partialPath(uploadId).getFileName().toString(), key -> new Object());
+    }
+
+    private long currentOffset(String uploadId) {
+        Path partial = partialPath(uploadId);
+        try {
+            return Files.size(partial);
+        } catch (IOException ex) {
+            throw new RuntimeException("Upload not found");
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Path partialDir() {
+        return Paths.get(uploadDir, "partial");
+    }
+
+    private Path partialPath(String uploadId) {
+        return partialDir().resolve(UUID.fromString(uploadId).toString());
+    }
+
+    private Path blobPath(String hash) {
+        return Paths.get(uploadDir, "blobs", hash.substring(0, 2), hash);
+    }
+}
\ No newline at end of file
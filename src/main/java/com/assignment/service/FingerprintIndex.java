@@ -0,0 +1,145 @@
+package com.assignment.service;
+
+import com.assignment.dto.SimilarityMatch;
+import com.assignment.model.Submission;
+import com.assignment.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-assignment inverted index of winnowing fingerprints (Schleimer et al.,
+ * the scheme behind MOSS). A lookup only walks the posting lists of the new
+ * submission's own fingerprints, so its cost does not grow with the number of
+ * submissions that share nothing with it. A student's earlier submissions are
+ * never counted as matches, so resubmitting a fixed version is not flagged.
+ */
+@Component
+public class FingerprintIndex {
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private CodeNormalizer codeNormalizer;
+
+    @Value("${evaluation.code.kgram-size:5}")
+    private int kgramSize;
+
+    @Value("${evaluation.code.window-size:4}")
+    private int windowSize;
+
+    private final Map<UUID, AssignmentIndex> indexes = new ConcurrentHashMap<>();
+
+    public SimilarityMatch matchAndAdd(Submission submission) {
+        AssignmentIndex index = indexes.get(submission.getAssignmentId());
+        if (index == null) {
+            // Loaded outside computeIfAbsent so the map bin lock is not held during DB I/O;
+            // if two threads race, the first published index wins.
+            AssignmentIndex loaded = load(submission.getAssignmentId());
+            index = indexes.putIfAbsent(submission.getAssignmentId(), loaded);
+            if (index == null) {
+                index = loaded;
+            }
+        }
+        return index.matchAndAdd(new Posting(submission.getId(), submission.getStudentId()),
+                fingerprint(submission.getContent()));
+    }
+
+    long[] fingerprint(String source) {
+        List<String> tokens = codeNormalizer.tokenize(source);
+        int gramCount = tokens.size() - kgramSize + 1;
+        if (gramCount <= 0) {
+            return tokens.isEmpty() ? new long[0] : new long[] {kgramHash(tokens, 0, tokens.size())};
+        }
+
+        long[] hashes = new long[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            hashes[i] = kgramHash(tokens, i, kgramSize);
+        }
+
+        Set<Long> selected = new LinkedHashSet<>();
+        int window = Math.min(windowSize, gramCount);
+        int lastPicked = -1;
+        for (int start = 0; start + window <= gramCount; start++) {
+            int min = start;
+            for (int j = start + 1; j < start + window; j++) {
+                if (hashes[j] <= hashes[min]) {
+                    min = j;
+                }
+            }
+            if (min != lastPicked) {
+                selected.add(hashes[min]);
+                lastPicked = min;
+            }
+        }
+        return selected.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long kgramHash(List<String> tokens, int from, int length) {
+        long hash = 0;
+        for (int i = from; i < from + length; i++) {
+            hash = hash * 1_000_003L + tokens.get(i).hashCode();
+        }
+        return hash;
+    }
+
+    private AssignmentIndex load(UUID assignmentId) {
+        AssignmentIndex index = new AssignmentIndex();
+        for (Submission existing : submissionRepository.findByAssignmentId(assignmentId)) {
+            index.add(new Posting(existing.getId(), existing.getStudentId()), fingerprint(existing.getContent()));
+        }
+        return index;
+    }
+
+    private record Posting(UUID submissionId, UUID studentId) {
+    }
+
+    private static class AssignmentIndex {
+        private final Map<Long, Set<Posting>> postings = new HashMap<>();
+        private final Set<UUID> documents = new HashSet<>();
+
+        synchronized SimilarityMatch matchAndAdd(Posting submission, long[] fingerprints) {
+            // Fingerprints shared by more than half the class are starter/template code.
+            int commonThreshold = Math.max(2, documents.size() / 2);
+            Map<UUID, Integer> shared = new HashMap<>();
+            for (long fingerprint : fingerprints) {
+                Set<Posting> holders = postings.get(fingerprint);
+                if (holders == null || holders.size() > commonThreshold) {
+                    continue;
+                }
+                for (Posting holder : holders) {
+                    if (!holder.studentId().equals(submission.studentId())) {
+                        shared.merge(holder.submissionId(), 1, Integer::sum);
+                    }
+                }
+            }
+
+            SimilarityMatch best = new SimilarityMatch(null, 0.0);
+            for (Map.Entry<UUID, Integer> entry : shared.entrySet()) {
+                double similarity = (double) entry.getValue() / fingerprints.length;
+                if (similarity > best.getSimilarity()) {
+                    best = new SimilarityMatch(entry.getKey(), similarity);
+                }
+            }
+
+            add(submission, fingerprints);
+            return best;
+        }
+
+        synchronized void add(Posting submission, long[] fingerprints) {
+            documents.add(submission.submissionId());
+            for (long fingerprint : fingerprints) {
+                postings.computeIfAbsent(fingerprint, key -> new HashSet<>()).add(submission);
+            }
+        }
+    }
+}
\ No newline at end of file
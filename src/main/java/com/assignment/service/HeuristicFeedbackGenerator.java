@@ -0,0 +1,31 @@
+package com.assignment.service;
+
+import com.assignment.dto.GeneratedFeedback;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HeuristicFeedbackGenerator implements FeedbackGenerator {
+
+    @Override
+    public GeneratedFeedback generate(String content) {
+        return new GeneratedFeedback(generateFeedback(content), generateDetailedFeedback(content));
+    }
+
+    private String generateFeedback(String content) {
+        int wordCount = content.split("\\s+").length;
+
+        if (wordCount < 50) {
+            return "The submission is too brief. Please provide more detailed explanations and examples.";
+        } else if (wordCount < 100) {
+            return "Good attempt, but the explanation could be more comprehensive. Consider adding more details.";
+        } else if (wordCount < 200) {
+            return "Well-structured response with good coverage of the topic. Some sections could be elaborated further.";
+        } else {
+            return "Excellent comprehensive response with detailed explanations and good structure.";
+        }
+    }
+
+    private String generateDetailedFeedback(String content) {
+        return "Content analysis shows good understanding. Continue to develop your explanations with more specific examples and references.";
+    }
+}
\ No newline at end of file
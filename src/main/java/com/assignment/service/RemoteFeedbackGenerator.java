@@ -0,0 +1,277 @@
+package com.assignment.service;
+
+import com.assignment.dto.GeneratedFeedback;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Calls a model-backed scorer over HTTP. Concurrent requests are coalesced into
+ * batched calls, identical content is de-duplicated in flight and cached by hash,
+ * and a circuit breaker falls back to the heuristic generator when the scorer is
+ * slow or failing. At most {@code max-in-flight-batches} calls are outstanding;
+ * batches beyond that fall back immediately instead of piling onto a slow scorer.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "evaluation.scorer.enabled", havingValue = "true")
+public class RemoteFeedbackGenerator implements FeedbackGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteFeedbackGenerator.class);
+
+    @Autowired
+    private HeuristicFeedbackGenerator fallback;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${evaluation.scorer.url}")
+    private String scorerUrl;
+
+    @Value("${evaluation.scorer.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${evaluation.scorer.batch-size:16}")
+    private int batchSize;
+
+    @Value("${evaluation.scorer.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${evaluation.scorer.cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${evaluation.scorer.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${evaluation.scorer.open-seconds:30}")
+    private long openSeconds;
+
+    @Value("${evaluation.scorer.max-in-flight-batches:4}")
+    private int maxInFlightBatches;
+
+    private final BlockingQueue<PendingRequest> pending = new LinkedBlockingQueue<>();
+    private final Map<String, CompletableFuture<GeneratedFeedback>> inFlight = new ConcurrentHashMap<>();
+    private Map<String, GeneratedFeedback> cache;
+    private CircuitBreaker circuitBreaker;
+    private Semaphore batchPermits;
+    private HttpClient httpClient;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GeneratedFeedback> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+        batchPermits = new Semaphore(maxInFlightBatches);
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "feedback-batcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        List<PendingRequest> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        fail(remaining, new IllegalStateException("Feedback generator shutting down"));
+    }
+
+    @Override
+    public GeneratedFeedback generate(String content) {
+        String key = hash(content);
+        GeneratedFeedback cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<GeneratedFeedback> future;
+        synchronized (inFlight) {
+            future = inFlight.get(key);
+            if (future == null) {
+                if (!circuitBreaker.allowRequest()) {
+                    return fallback.generate(content);
+                }
+                future = new CompletableFuture<>();
+                inFlight.put(key, future);
+                pending.add(new PendingRequest(key, content, future));
+            }
+        }
+
+        try {
+            return future.get(timeoutMs + lingerMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return fallback.generate(content);
+        } catch (ExecutionException | TimeoutException ex) {
+            log.warn("Remote scorer unavailable, using heuristic feedback: {}", ex.toString());
+            return fallback.generate(content);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingRequest first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingRequest> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    PendingRequest next = pending.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Feedback batch dispatch failed", ex);
+            }
+        }
+    }
+
+    private void send(List<PendingRequest> batch) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode requests = body.putArray("requests");
+        for (PendingRequest request : batch) {
+            requests.addObject()
+                    .put("id", request.key)
+                    .put("content", request.content);
+        }
+
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(scorerUrl))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+                .build();
+
+        if (!batchPermits.tryAcquire()) {
+            // A saturated scorer counts as failing so a slow one eventually opens the circuit.
+            circuitBreaker.recordFailure();
+            fail(batch, new IllegalStateException("Scorer has " + maxInFlightBatches + " batches in flight"));
+            return;
+        }
+
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, error) -> {
+                    batchPermits.release();
+                    if (error != null) {
+                        circuitBreaker.recordFailure();
+                        fail(batch, error);
+                    } else if (response.statusCode() / 100 != 2) {
+                        circuitBreaker.recordFailure();
+                        fail(batch, new IllegalStateException("Scorer returned HTTP " + response.statusCode()));
+                    } else {
+                        complete(batch, response.body());
+                    }
+                });
+    }
+
+    private void complete(List<PendingRequest> batch, String responseBody) {
+        Map<String, GeneratedFeedback> results = new HashMap<>();
+        try {
+            for (JsonNode result : objectMapper.readTree(responseBody).path("results")) {
+                results.put(result.path("id").asText(), new GeneratedFeedback(
+                        result.path("summary").asText(),
+                        result.path("detailed_feedback").asText(null)));
+            }
+        } catch (Exception ex) {
+            circuitBreaker.recordFailure();
+            fail(batch, ex);
+            return;
+        }
+
+        circuitBreaker.recordSuccess();
+        for (PendingRequest request : batch) {
+            GeneratedFeedback feedback = results.get(request.key);
+            inFlight.remove(request.key);
+            if (feedback == null) {
+                request.future.completeExceptionally(new IllegalStateException("Scorer omitted result " + request.key));
+            } else {
+                cache.put(request.key, feedback);
+                request.future.complete(feedback);
+            }
+        }
+    }
+
+    private void fail(List<PendingRequest> batch, Throwable error) {
+        for (PendingRequest request : batch) {
+            inFlight.remove(request.key);
+            request.future.completeExceptionally(error);
+        }
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static class PendingRequest {
+        private final String key;
+        private final String content;
+        private final CompletableFuture<GeneratedFeedback> future;
+
+        PendingRequest(String key, String content, CompletableFuture<GeneratedFeedback> future) {
+            this.key = key;
+            this.content = content;
+            this.future = future;
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,22 @@
 package com.assignment.service;
 
 import com.assignment.dto.SubmissionRequest;
+import com.assignment.model.Assignment;
 import com.assignment.model.Submission;
+import com.assignment.repository.AssignmentRepository;
 import com.assignment.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -15,7 +26,28 @@ public class SubmissionService {
     private SubmissionRepository submissionRepository;
 
     @Autowired
-    private AIEvaluationService aiEvaluationService;
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private EvaluationScheduler evaluationScheduler;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Value("${submission.idempotency.cache-size:10000}")
+    private int idempotencyCacheSize;
+
+    private Map<String, UUID> recentIdempotencyKeys;
+
+    @PostConstruct
+    void init() {
+        recentIdempotencyKeys = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UUID> eldest) {
+                return size() > idempotencyCacheSize;
+            }
+        });
+    }
 
     public List<Submission> getStudentSubmissions(UUID studentId) {
         return submissionRepository.findByStudentId(studentId);
@@ -30,18 +62,86 @@ public class SubmissionService {
                 .orElseThrow(() -> new RuntimeException("Submission not found"));
     }
 
-    public Submission createSubmission(SubmissionRequest request, UUID studentId) {
+    public Submission createSubmission(SubmissionRequest request, UUID studentId, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<Submission> existing = findByIdempotencyKey(studentId, idempotencyKey);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+
+        Assignment assignment = assignmentRepository.findById(UUID.fromString(request.getAssignment_id()))
+                .orElseThrow(() -> new RuntimeException("Assignment not found"));
+
         Submission submission = new Submission();
-        submission.setAssignmentId(UUID.fromString(request.getAssignment_id()));
+        submission.setAssignmentId(assignment.getId());
         submission.setStudentId(studentId);
-        submission.setContent(request.getContent());
+        submission.setContent(resolveContent(request));
         submission.setFileUrl(request.getFile_url());
         submission.setStatus(Submission.SubmissionStatus.pending);
+        submission.setIdempotencyKey(idempotencyKey);
 
-        submission = submissionRepository.save(submission);
+        try {
+            submission = submissionRepository.save(submission);
+        } catch (DataIntegrityViolationException ex) {
+            if (idempotencyKey == null) {
+                throw ex;
+            }
+            return submissionRepository.findByStudentIdAndIdempotencyKey(studentId, idempotencyKey)
+                    .orElseThrow(() -> ex);
+        }
+        if (idempotencyKey != null) {
+            recentIdempotencyKeys.put(studentId + ":" + idempotencyKey, submission.getId());
+        }
 
-        aiEvaluationService.evaluateSubmission(submission);
+        evaluationScheduler.schedule(submission, assignment.getDueDate(), EvaluationScheduler.JobType.interactive);
 
         return submission;
     }
+
+    private Optional<Submission> findByIdempotencyKey(UUID studentId, String idempotencyKey) {
+        String cacheKey = studentId + ":" + idempotencyKey;
+        UUID cachedId = recentIdempotencyKeys.get(cacheKey);
+        if (cachedId != null) {
+            return submissionRepository.findById(cachedId);
+        }
+
+        Optional<Submission> existing = submissionRepository.findByStudentIdAndIdempotencyKey(studentId, idempotencyKey);
+        existing.ifPresent(submission -> recentIdempotencyKeys.put(cacheKey, submission.getId()));
+        return existing;
+    }
+
+    private String resolveContent(SubmissionRequest request) {
+        if (request.getContent() != null && !request.getContent().isBlank()) {
+            return request.getContent();
+        }
+        return fileStorageService.extractText(request.getFile_url())
+                .orElseThrow(() -> new RuntimeException("Submission content is empty"));
+    }
+
+    public List<Submission> regradeAssignment(UUID assignmentId, UUID userId) {
+        Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new RuntimeException("Assignment not found"));
+        if (!assignment.getInstructorId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the assignment's instructor can regrade it");
+        }
+
+        List<Submission> submissions = submissionRepository.findByAssignmentId(assignmentId);
+        if (submissions.isEmpty()) {
+            return submissions;
+        }
+        // Bulk status flip: a per-row merge would rewrite every content column and
+        // fail on versions the write-behind flush bumped in the meantime.
+        submissionRepository.updateStatus(submissions.stream().map(Submission::getId).toList(),
+                Submission.SubmissionStatus.pending);
+        for (Submission submission : submissions) {
+            submission.setStatus(Submission.SubmissionStatus.pending);
+        }
+
+        for (Submission submission : submissions) {
+            evaluationScheduler.schedule(submission, assignment.getDueDate(), EvaluationScheduler.JobType.batch_regrade);
+        }
+
+        return submissions;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.assignment.loadtest;
+
+import com.assignment.model.Submission;
+import com.assignment.model.User;
+import com.assignment.repository.AssignmentRepository;
+import com.assignment.repository.FeedbackRepository;
+import com.assignment.repository.SubmissionRepository;
+import com.assignment.repository.UserRepository;
+import com.assignment.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the REST API at {@code loadtest.concurrency} workers issuing
+ * {@code loadtest.requests} calls each per scenario. {@code mvn test} runs it as
+ * a smoke test; {@code mvn test -Pload-test} runs it at capacity-planning load
+ * and fails when p95 latency or throughput regress beyond
+ * {@code loadtest.tolerance} of the stored baseline.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApiLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 4);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 25);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+    private static final boolean ENFORCE_BASELINE = Boolean.getBoolean("loadtest.enforce-baseline");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTestDataGenerator data;
+    private List<String> tokens;
+
+    @BeforeAll
+    void generateData() {
+        data = new LoadTestDataGenerator(userRepository, assignmentRepository, submissionRepository,
+                feedbackRepository, passwordEncoder);
+        data.generate(CONCURRENCY * 2, 20, 5);
+
+        tokens = new ArrayList<>();
+        for (User student : data.students) {
+            tokens.add(tokenProvider.generateToken(student.getId()));
+        }
+    }
+
+    @Test
+    void apiMeetsBaseline() throws Exception {
+        Map<String, LatencyRecorder> results = new LinkedHashMap<>();
+
+        results.put("login", run(i -> {
+            User student = data.students.get(i % data.students.size());
+            return post("/api/auth/login", null,
+                    "{\"email\":\"" + student.getEmail() + "\",\"password\":\"" + LoadTestDataGenerator.PASSWORD + "\"}");
+        }));
+
+        results.put("assignments", run(i -> get("/api/assignments", token(i))));
+
+        String assignmentsETag = httpClient.send(get("/api/assignments", token(0)), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElseThrow();
+        results.put("assignments-not-modified", run(i -> HttpRequest.newBuilder(get("/api/assignments", token(i)), (name, value) -> true)
+                .header("If-None-Match", assignmentsETag)
+                .build(), 304));
+
+        results.put("student-submissions", run(i -> get("/api/submissions/student", token(i))));
+
+        results.put("feedback", run(i -> {
+            Submission submission = data.submissions.get(i % data.submissions.size());
+            return get("/api/feedback/submission/" + submission.getId(), token(i));
+        }));
+
+        results.put("create-submission", run(i -> {
+            String assignmentId = data.assignments.get(i % data.assignments.size()).getId().toString();
+            return post("/api/submissions", token(i),
+                    "{\"assignment_id\":\"" + assignmentId + "\",\"content\":\"" + data.text(200) + "\"}");
+        }));
+
+        LoadTestBaseline.writeReport(results, Paths.get("target", "loadtest", "results.properties"));
+        results.forEach((scenario, recorder) -> System.out.printf(Locale.ROOT,
+                "%-26s n=%d errors=%d p50=%.1fms p95=%.1fms p99=%.1fms throughput=%.1f req/s%n",
+                scenario, recorder.getCount(), recorder.getErrors(), recorder.percentileMs(50),
+                recorder.percentileMs(95), recorder.percentileMs(99), recorder.throughput()));
+
+        for (Map.Entry<String, LatencyRecorder> entry : results.entrySet()) {
+            assertEquals(0, entry.getValue().getErrors(), entry.getKey() + " returned errors");
+        }
+        if (ENFORCE_BASELINE) {
+            List<String> regressions = LoadTestBaseline.load().regressions(results, TOLERANCE);
+            assertTrue(regressions.isEmpty(), "Performance regressed: " + regressions);
+        }
+    }
+
+    private String token(int i) {
+        return tokens.get(i % tokens.size());
+    }
+
+    private LatencyRecorder run(IntFunction<HttpRequest> requests) throws Exception {
+        return run(requests, 200);
+    }
+
+    private LatencyRecorder run(IntFunction<HttpRequest> requests, int expectedStatus) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder(CONCURRENCY * REQUESTS);
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < CONCURRENCY; w++) {
+            int worker = w;
+            futures.add(workers.submit(() -> {
+                start.await();
+                for (int r = 0; r < REQUESTS; r++) {
+                    HttpRequest request = requests.apply(worker * REQUESTS + r);
+                    long begin = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == expectedStatus;
+                    } catch (Exception ex) {
+                        success = false;
+                    }
+                    recorder.record(System.nanoTime() - begin, success);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        recorder.setWallNanos(System.nanoTime() - begin);
+        workers.shutdown();
+        return recorder;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.assignment.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LatencyRecorder {
+
+    private final long[] samples;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    private long wallNanos;
+
+    LatencyRecorder(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos, boolean success) {
+        samples[count.getAndIncrement()] = nanos;
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    int getCount() {
+        return count.get();
+    }
+
+    int getErrors() {
+        return errors.get();
+    }
+
+    double throughput() {
+        return wallNanos == 0 ? 0.0 : count.get() / (wallNanos / 1_000_000_000.0);
+    }
+
+    double percentileMs(double percentile) {
+        long[] sorted = Arrays.copyOf(samples, count.get());
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.assignment.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Baseline latency/throughput per scenario, stored as
+ * {@code <scenario>.p95-ms} and {@code <scenario>.throughput} in
+ * {@code src/test/resources/loadtest/baseline.properties}.
+ */
+class LoadTestBaseline {
+
+    private final Properties values = new Properties();
+
+    static LoadTestBaseline load() throws IOException {
+        LoadTestBaseline baseline = new LoadTestBaseline();
+        try (InputStream in = LoadTestBaseline.class.getResourceAsStream("/loadtest/baseline.properties")) {
+            if (in != null) {
+                baseline.values.load(in);
+            }
+        }
+        return baseline;
+    }
+
+    List<String> regressions(Map<String, LatencyRecorder> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((scenario, recorder) -> {
+            String p95 = values.getProperty(scenario + ".p95-ms");
+            String throughput = values.getProperty(scenario + ".throughput");
+            if (p95 == null || throughput == null) {
+                regressions.add(scenario + " has no recorded baseline");
+                return;
+            }
+            if (recorder.percentileMs(95) > Double.parseDouble(p95) * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s p95 %.1fms exceeds baseline %sms", scenario, recorder.percentileMs(95), p95));
+            }
+            if (recorder.throughput() < Double.parseDouble(throughput) * (1 - tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s throughput %.1f req/s below baseline %s req/s", scenario, recorder.throughput(), throughput));
+            }
+        });
+        return regressions;
+    }
+
+    static void writeReport(Map<String, LatencyRecorder> results, Path file) throws IOException {
+        Properties report = new Properties();
+        results.forEach((scenario, recorder) -> {
+            report.setProperty(scenario + ".count", String.valueOf(recorder.getCount()));
+            report.setProperty(scenario + ".errors", String.valueOf(recorder.getErrors()));
+            report.setProperty(scenario + ".p50-ms", String.format(Locale.ROOT, "%.1f", recorder.percentileMs(50)));
+            report.setProperty(scenario + ".p95-ms", String.format(Locale.ROOT, "%.1f", recorder.percentileMs(95)));
+            report.setProperty(scenario + ".p99-ms", String.format(Locale.ROOT, "%.1f", recorder.percentileMs(99)));
+            report.setProperty(scenario + ".throughput", String.format(Locale.ROOT, "%.1f", recorder.throughput()));
+        });
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            report.store(out, "Load test results");
+        }
+    }
+}
\ No newline at end of file
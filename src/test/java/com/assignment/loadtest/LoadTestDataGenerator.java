@@ -0,0 +1,115 @@
+package com.assignment.loadtest;
+
+import com.assignment.model.Assignment;
+import com.assignment.model.Feedback;
+import com.assignment.model.Submission;
+import com.assignment.model.User;
+import com.assignment.repository.AssignmentRepository;
+import com.assignment.repository.FeedbackRepository;
+import com.assignment.repository.SubmissionRepository;
+import com.assignment.repository.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class LoadTestDataGenerator {
+
+    static final String PASSWORD = "load-test-password";
+
+    private static final String[] WORDS = {
+            "algorithm", "analysis", "complexity", "structure", "evaluation", "hypothesis", "result",
+            "method", "design", "system", "performance", "memory", "network", "database", "thread",
+            "example", "therefore", "however", "because", "argument", "evidence", "model", "data"};
+
+    private final UserRepository userRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(42);
+
+    final List<User> students = new ArrayList<>();
+    final List<Assignment> assignments = new ArrayList<>();
+    final List<Submission> submissions = new ArrayList<>();
+
+    LoadTestDataGenerator(UserRepository userRepository,
+                          AssignmentRepository assignmentRepository,
+                          SubmissionRepository submissionRepository,
+                          FeedbackRepository feedbackRepository,
+                          PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.submissionRepository = submissionRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    void generate(int studentCount, int assignmentCount, int submissionsPerStudent) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        User instructor = newUser("instructor@loadtest.local", User.UserRole.instructor, encodedPassword);
+        instructor = userRepository.save(instructor);
+
+        for (int i = 0; i < studentCount; i++) {
+            students.add(newUser("student" + i + "@loadtest.local", User.UserRole.student, encodedPassword));
+        }
+        userRepository.saveAll(students);
+
+        for (int i = 0; i < assignmentCount; i++) {
+            Assignment assignment = new Assignment();
+            assignment.setInstructorId(instructor.getId());
+            assignment.setTitle("Load test assignment " + i);
+            assignment.setDescription(text(80));
+            assignment.setDueDate(LocalDateTime.now().plusDays(1 + random.nextInt(14)));
+            assignment.setMaxScore(100);
+            assignments.add(assignment);
+        }
+        assignmentRepository.saveAll(assignments);
+
+        for (User student : students) {
+            for (int i = 0; i < submissionsPerStudent; i++) {
+                Submission submission = new Submission();
+                submission.setAssignmentId(assignments.get(random.nextInt(assignments.size())).getId());
+                submission.setStudentId(student.getId());
+                submission.setContent(text(150 + random.nextInt(300)));
+                submission.setStatus(Submission.SubmissionStatus.evaluated);
+                submissions.add(submission);
+            }
+        }
+        submissionRepository.saveAll(submissions);
+
+        List<Feedback> feedback = new ArrayList<>();
+        for (Submission submission : submissions) {
+            Feedback item = new Feedback();
+            item.setSubmissionId(submission.getId());
+            item.setPlagiarismRisk(random.nextDouble() * 40);
+            item.setFeedbackSummary(text(20));
+            item.setDetailedFeedback(text(60));
+            item.setScore(random.nextInt(101));
+            feedback.add(item);
+        }
+        feedbackRepository.saveAll(feedback);
+    }
+
+    String text(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static User newUser(String email, User.UserRole role, String encodedPassword) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(encodedPassword);
+        user.setFullName(email);
+        user.setRole(role);
+        return user;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.assignment.service;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    @Test
+    void staysClosedBelowThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.closed, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void opensAtThresholdAndRejectsUntilOpenDurationElapses() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.open, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMinutes(1));
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.closed, breaker.getState());
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrial() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ZERO);
+        breaker.recordFailure();
+
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.half_open, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    void successfulTrialCloses() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ZERO);
+        breaker.recordFailure();
+        breaker.allowRequest();
+        breaker.recordSuccess();
+
+        assertEquals(CircuitBreaker.State.closed, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void failedTrialReopens() {
+        CircuitBreaker breaker = new CircuitBreaker(5, Duration.ofMillis(200));
+        for (int i = 0; i < 5; i++) {
+            breaker.recordFailure();
+        }
+        await(breaker::allowRequest);
+        assertEquals(CircuitBreaker.State.half_open, breaker.getState());
+
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.open, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.onSpinWait();
+        }
+    }
+}
\ No newline at end of file
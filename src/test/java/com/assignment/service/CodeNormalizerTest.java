@@ -0,0 +1,53 @@
+package com.assignment.service;
+
+import com.assignment.dto.CodeMetrics;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CodeNormalizerTest {
+
+    private final CodeNormalizer normalizer = new CodeNormalizer();
+
+    @Test
+    void renamedAndReformattedCodeTokenizesIdentically() {
+        String original = "int total = 0;\nfor (int i = 0; i < items.length; i++) {\n    total += items[i];\n}\n";
+        String disguised = "// sum them up\nint acc=10;for(int k=1;k<values.length;k++){acc+=values[k];}";
+
+        assertEquals(normalizer.tokenize(original), normalizer.tokenize(disguised));
+    }
+
+    @Test
+    void keepsCPreprocessorDirectives() {
+        String source = "#include <stdio.h>\nint main() { return 0; }\n";
+
+        assertEquals("#include", normalizer.tokenize(source).get(0));
+        CodeMetrics metrics = normalizer.measure(source);
+        assertEquals(2, metrics.getCodeLines());
+        assertEquals(0, metrics.getCommentLines());
+    }
+
+    @Test
+    void collapsesDirectiveWithContinuationsToOneToken() {
+        String source = "#define MAX(a, b) \\\n    ((a) > (b) ? (a) : (b))\nint x;\n";
+
+        assertEquals(List.of("#define", "int", "V", ";"), normalizer.tokenize(source));
+        assertEquals(3, normalizer.measure(source).getCodeLines());
+    }
+
+    @Test
+    void treatsSpacedHashAsPythonComment() {
+        String source = "# if the list is empty return None\nx = 1\n";
+
+        assertEquals(List.of("V", "=", "N"), normalizer.tokenize(source));
+        CodeMetrics metrics = normalizer.measure(source);
+        assertEquals(1, metrics.getCodeLines());
+        assertEquals(1, metrics.getCommentLines());
+    }
+
+    @Test
+    void treatsMidLineHashAsComment() {
+        assertEquals(List.of("V", "=", "N"), normalizer.tokenize("x = 1  # include the offset\n"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.assignment.service;
+
+import com.assignment.model.Assignment;
+import com.assignment.model.Feedback;
+import com.assignment.model.Submission;
+import com.assignment.repository.AssignmentRepository;
+import com.assignment.repository.FeedbackRepository;
+import com.assignment.repository.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Runs the write-behind buffer against H2 with the periodic flush pushed out of
+ * the way, so every write happens on an explicit {@link EvaluationResultWriter#flush()}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:writer;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "evaluation.writer.flush-interval-ms=600000"
+})
+@ActiveProfiles("loadtest")
+class EvaluationResultWriterTest {
+
+    @Autowired
+    private EvaluationResultWriter writer;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @SpyBean
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Test
+    void writesBatchAndMarksSubmissionsEvaluated() {
+        Submission first = pendingSubmission();
+        Submission second = pendingSubmission();
+
+        writer.enqueue(feedback(first, 40));
+        writer.enqueue(feedback(second, 60));
+        writer.flush();
+
+        assertEquals(40, scoreOf(first));
+        assertEquals(60, scoreOf(second));
+        assertEquals(Submission.SubmissionStatus.evaluated, statusOf(first));
+        assertEquals(Submission.SubmissionStatus.evaluated, statusOf(second));
+    }
+
+    @Test
+    void rebuffersFailedBatchAndRetriesWithFreshIds() {
+        Submission submission = pendingSubmission();
+        doThrow(new QueryTimeoutException("database unavailable"))
+                .when(submissionRepository).updateStatus(anyCollection(), any());
+
+        writer.enqueue(feedback(submission, 55));
+        assertThrows(QueryTimeoutException.class, writer::flush);
+        assertTrue(feedbackRepository.findBySubmissionId(submission.getId()).isEmpty());
+        reset(submissionRepository);
+
+        // The rolled-back insert must not leave a generated id/version behind,
+        // or the retry would be treated as an update of a row that never existed.
+        writer.flush();
+
+        assertEquals(55, scoreOf(submission));
+        assertEquals(Submission.SubmissionStatus.evaluated, statusOf(submission));
+    }
+
+    @Test
+    void dropsStaleRowWithoutBlockingRestOfBatch() {
+        Submission regraded = pendingSubmission();
+        feedbackRepository.save(feedback(regraded, 50));
+        Feedback stale = feedbackRepository.findBySubmissionId(regraded.getId()).orElseThrow();
+        Feedback current = feedbackRepository.findBySubmissionId(regraded.getId()).orElseThrow();
+        current.setScore(70);
+        feedbackRepository.save(current);
+        Submission other = pendingSubmission();
+
+        stale.setScore(5);
+        writer.enqueue(stale);
+        writer.enqueue(feedback(other, 80));
+        writer.flush();
+
+        assertEquals(70, scoreOf(regraded));
+        assertEquals(80, scoreOf(other));
+        assertEquals(Submission.SubmissionStatus.evaluated, statusOf(other));
+    }
+
+    @Test
+    void regradeRacingUnflushedResultKeepsNewerScore() {
+        Submission submission = pendingSubmission();
+        // Both results are built before either is saved, as when a regrade evaluates
+        // the submission while its first result still sits in the buffer.
+        Feedback first = feedback(submission, 10);
+        Feedback regraded = feedback(submission, 90);
+
+        writer.enqueue(first);
+        writer.flush();
+        submissionRepository.updateStatus(List.of(submission.getId()), Submission.SubmissionStatus.pending);
+        writer.enqueue(regraded);
+        writer.flush();
+
+        assertEquals(90, scoreOf(submission));
+        assertEquals(Submission.SubmissionStatus.evaluated, statusOf(submission));
+    }
+
+    private Submission pendingSubmission() {
+        Assignment assignment = new Assignment();
+        assignment.setInstructorId(UUID.randomUUID());
+        assignment.setTitle("Writer test");
+        assignment.setDescription("Writer test");
+        assignment.setDueDate(LocalDateTime.now().plusDays(7));
+        assignment.setMaxScore(100);
+        assignment = assignmentRepository.save(assignment);
+
+        Submission submission = new Submission();
+        submission.setAssignmentId(assignment.getId());
+        submission.setStudentId(UUID.randomUUID());
+        submission.setContent("answer");
+        submission.setStatus(Submission.SubmissionStatus.pending);
+        return submissionRepository.save(submission);
+    }
+
+    private static Feedback feedback(Submission submission, int score) {
+        Feedback feedback = new Feedback();
+        feedback.setSubmissionId(submission.getId());
+        feedback.setFeedbackSummary("Score " + score);
+        feedback.setScore(score);
+        return feedback;
+    }
+
+    private int scoreOf(Submission submission) {
+        return feedbackRepository.findBySubmissionId(submission.getId()).orElseThrow().getScore();
+    }
+
+    private Submission.SubmissionStatus statusOf(Submission submission) {
+        return submissionRepository.findById(submission.getId()).orElseThrow().getStatus();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.assignment.service;
+
+import com.assignment.dto.SimilarityMatch;
+import com.assignment.model.Submission;
+import com.assignment.repository.SubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class FingerprintIndexTest {
+
+    private static final String SOLUTION = """
+            def find_max(values):
+                best = values[0]
+                for value in values:
+                    if value > best:
+                        best = value
+                return best
+            """;
+
+    private static final String RENAMED = """
+            def largest(xs):
+                # start from the first element
+                m = xs[0]
+                for x in xs:
+                    if x > m:
+                        m = x
+                return m
+            """;
+
+    private static final String TEMPLATE = """
+            import sys
+
+            def main():
+                data = read_input(sys.stdin)
+                print(solve(data))
+
+            if __name__ == "__main__":
+                main()
+            """;
+
+    private final UUID assignmentId = UUID.randomUUID();
+    private FingerprintIndex index;
+
+    @BeforeEach
+    void createIndex() {
+        index = new FingerprintIndex();
+        ReflectionTestUtils.setField(index, "submissionRepository", mock(SubmissionRepository.class));
+        ReflectionTestUtils.setField(index, "codeNormalizer", new CodeNormalizer());
+        ReflectionTestUtils.setField(index, "kgramSize", 5);
+        ReflectionTestUtils.setField(index, "windowSize", 4);
+    }
+
+    @Test
+    void selectsStableFingerprints() {
+        long[] fingerprints = index.fingerprint(SOLUTION);
+
+        assertTrue(fingerprints.length > 0);
+        assertArrayEquals(fingerprints, index.fingerprint(SOLUTION));
+        assertArrayEquals(fingerprints, index.fingerprint(RENAMED));
+    }
+
+    @Test
+    void matchesRenamedCopyFromAnotherStudent() {
+        Submission original = submission(UUID.randomUUID(), SOLUTION);
+        index.matchAndAdd(original);
+
+        SimilarityMatch match = index.matchAndAdd(submission(UUID.randomUUID(), RENAMED));
+
+        assertEquals(original.getId(), match.getSubmissionId());
+        assertEquals(1.0, match.getSimilarity());
+    }
+
+    @Test
+    void ignoresOwnResubmission() {
+        UUID student = UUID.randomUUID();
+        index.matchAndAdd(submission(student, SOLUTION));
+
+        SimilarityMatch match = index.matchAndAdd(submission(student, RENAMED));
+
+        assertNull(match.getSubmissionId());
+        assertEquals(0.0, match.getSimilarity());
+    }
+
+    @Test
+    void skipsTemplateFingerprintsSharedByMostOfTheClass() {
+        for (int i = 0; i < 6; i++) {
+            index.matchAndAdd(submission(UUID.randomUUID(), TEMPLATE));
+        }
+
+        SimilarityMatch match = index.matchAndAdd(submission(UUID.randomUUID(), TEMPLATE));
+
+        assertNull(match.getSubmissionId());
+        assertEquals(0.0, match.getSimilarity());
+    }
+
+    private Submission submission(UUID studentId, String content) {
+        Submission submission = new Submission();
+        submission.setId(UUID.randomUUID());
+        submission.setAssignmentId(assignmentId);
+        submission.setStudentId(studentId);
+        submission.setContent(content);
+        return submission;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.assignment.service;
+
+import com.assignment.dto.GeneratedFeedback;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises the remote scorer client against a stub {@link HttpServer} that
+ * answers {@code {"results":[{id, summary, detailed_feedback}]}} with the
+ * content echoed back, so remote and fallback results are distinguishable.
+ */
+class RemoteFeedbackGeneratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HeuristicFeedbackGenerator heuristic = new HeuristicFeedbackGenerator();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger items = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMs;
+    private volatile CountDownLatch received = new CountDownLatch(0);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private HttpServer server;
+    private RemoteFeedbackGenerator generator;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(handlers);
+        server.createContext("/score", this::score);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        if (generator != null) {
+            generator.stop();
+        }
+        callers.shutdownNow();
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void coalescesConcurrentRequestsIntoOneBatch() throws Exception {
+        generator = generator(5000, 500, 5, 4);
+
+        List<Future<GeneratedFeedback>> results = concurrently(5, i -> "submission " + i);
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("remote: submission " + i, results.get(i).get().getSummary());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(5, items.get());
+    }
+
+    @Test
+    void deduplicatesIdenticalContentInFlight() throws Exception {
+        generator = generator(5000, 200, 5, 4);
+
+        List<Future<GeneratedFeedback>> results = concurrently(5, i -> "same content");
+
+        for (Future<GeneratedFeedback> result : results) {
+            assertEquals("remote: same content", result.get().getSummary());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, items.get());
+    }
+
+    @Test
+    void servesRepeatedContentFromCache() {
+        generator = generator(5000, 20, 5, 4);
+
+        generator.generate("cached content");
+        GeneratedFeedback second = generator.generate("cached content");
+
+        assertEquals("remote: cached content", second.getSummary());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void fallsBackWhenScorerTimesOut() {
+        delayMs = 2000;
+        generator = generator(200, 20, 5, 4);
+
+        GeneratedFeedback feedback = generator.generate("slow content");
+
+        assertEquals(heuristic.generate("slow content"), feedback);
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailures() {
+        status = 500;
+        generator = generator(5000, 20, 2, 4);
+
+        assertEquals(heuristic.generate("first"), generator.generate("first"));
+        assertEquals(heuristic.generate("second"), generator.generate("second"));
+        assertEquals(CircuitBreaker.State.open, generator.getCircuitState());
+
+        assertEquals(heuristic.generate("third"), generator.generate("third"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void fallsBackWhenTooManyBatchesAreInFlight() throws Exception {
+        received = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        generator = generator(5000, 20, 5, 1);
+
+        Future<GeneratedFeedback> first = callers.submit(() -> generator.generate("first"));
+        assertTrue(received.await(5, TimeUnit.SECONDS), "first batch never reached the scorer");
+
+        assertEquals(heuristic.generate("second"), generator.generate("second"));
+        assertEquals(1, calls.get());
+
+        release.countDown();
+        assertEquals("remote: first", first.get(5, TimeUnit.SECONDS).getSummary());
+    }
+
+    private RemoteFeedbackGenerator generator(long timeoutMs, long lingerMs, int failureThreshold, int maxInFlightBatches) {
+        RemoteFeedbackGenerator generator = new RemoteFeedbackGenerator();
+        ReflectionTestUtils.setField(generator, "fallback", heuristic);
+        ReflectionTestUtils.setField(generator, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(generator, "scorerUrl", "http://localhost:" + server.getAddress().getPort() + "/score");
+        ReflectionTestUtils.setField(generator, "timeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(generator, "batchSize", 16);
+        ReflectionTestUtils.setField(generator, "lingerMs", lingerMs);
+        ReflectionTestUtils.setField(generator, "cacheSize", 100);
+        ReflectionTestUtils.setField(generator, "failureThreshold", failureThreshold);
+        ReflectionTestUtils.setField(generator, "openSeconds", 60L);
+        ReflectionTestUtils.setField(generator, "maxInFlightBatches", maxInFlightBatches);
+        generator.start();
+        return generator;
+    }
+
+    private List<Future<GeneratedFeedback>> concurrently(int count, IntFunction<String> content) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<GeneratedFeedback>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String text = content.apply(i);
+            results.add(callers.submit(() -> {
+                start.await();
+                return generator.generate(text);
+            }));
+        }
+        start.countDown();
+        return results;
+    }
+
+    private void score(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        calls.incrementAndGet();
+        items.addAndGet(request.path("requests").size());
+        received.countDown();
+
+        try {
+            release.await();
+            Thread.sleep(delayMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        for (JsonNode item : request.path("requests")) {
+            results.addObject()
+                    .put("id", item.path("id").asText())
+                    .put("summary", "remote: " + item.path("content").asText())
+                    .put("detailed_feedback", "detailed");
+        }
+        byte[] body = status == 200 ? response.toString().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
\ No newline at end of file